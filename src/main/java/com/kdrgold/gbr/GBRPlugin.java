@@ -7,8 +7,11 @@ import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
 import com.kdrgold.gbr.components.tracking.PlayerKillTrackerComponent;
 import com.kdrgold.gbr.config.ConditionalSpawnConfig;
+import com.kdrgold.gbr.config.EliteLootConfig;
+import com.kdrgold.gbr.systems.EliteLootSystem;
 import com.kdrgold.gbr.systems.EliteSpawnSystem;
 import com.kdrgold.gbr.systems.KillTrackingSystem;
+import com.kdrgold.gbr.systems.LoadSheddingSystem;
 
 /**
  * Main plugin class for Gold's Beasts Rebalance
@@ -77,6 +80,20 @@ public class GBRPlugin extends JavaPlugin {
                 getEntityStoreRegistry().registerSystem(eliteSpawnSystem);
                 LOGGER.atInfo().log("[GBR] Registered EliteSpawnSystem");
                 
+                // Register elite bonus loot system (alias tables are built when EliteLootConfig loads)
+                if (EliteLootConfig.ENABLE_ELITE_BONUS_LOOT) {
+                    EliteLootSystem eliteLootSystem = new EliteLootSystem();
+                    getEntityStoreRegistry().registerSystem(eliteLootSystem);
+                    LOGGER.atInfo().log("[GBR] Registered EliteLootSystem");
+                }
+                
+                // Register load-shedding system (tick budget tracking and deferred spawn work)
+                if (ConditionalSpawnConfig.ENABLE_LOAD_SHEDDING) {
+                    LoadSheddingSystem loadSheddingSystem = new LoadSheddingSystem();
+                    getEntityStoreRegistry().registerSystem(loadSheddingSystem);
+                    LOGGER.atInfo().log("[GBR] Registered LoadSheddingSystem");
+                }
+                
                 LOGGER.atInfo().log("[GBR] Conditional spawning systems active!");
                 LOGGER.atInfo().log("[GBR] - 5 kills in 72h → 60% elite spawn chance");
                 LOGGER.atInfo().log("[GBR] - 6+ kills → 100% guaranteed spawn");
@@ -1,9 +1,9 @@
 package com.kdrgold.gbr.components.tracking;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.Nonnull;
 
@@ -29,41 +29,85 @@ public class PlayerKillTrackerComponent implements Component<EntityStore> {
             .builder(PlayerKillTrackerComponent.class, PlayerKillTrackerComponent::new)
             .build();
     
+    // Bulk reset generations shared by every tracker
+    // Bumping one invalidates the matching kill windows everywhere; stale data is dropped when next read
+    private static final AtomicLong GLOBAL_GENERATION = new AtomicLong();
+    private static final Map<String, AtomicLong> ROLE_GENERATIONS = new ConcurrentHashMap<>();
+    
     // Track kill timestamps for each entity type
-    private final Map<String, List<Long>> killTimestamps;
+    // Each role has its own atomic slot holding an immutable, sorted snapshot, so
+    // writers on different roles never contend and readers never see a partial update
+    private final Map<String, AtomicReference<KillWindow>> killTimestamps;
+    
+    private static final long[] NO_KILLS = new long[0];
+    private static final KillWindow EMPTY_WINDOW = new KillWindow(0L, 0L, NO_KILLS);
     
     public PlayerKillTrackerComponent() {
         this.killTimestamps = new ConcurrentHashMap<>();
     }
     
     /**
-     * Records a kill for a specific entity type with timestamp
+     * Records a kill for a specific entity type with timestamp.
+     * Safe to call from multiple threads; expired kills are dropped as part of the update.
      * 
      * @param entityType The type of entity killed (e.g., "wolf", "grizzly_bear")
      * @param currentTime Current game time in ticks
      */
     public void recordKill(@Nonnull String entityType, long currentTime) {
-        killTimestamps.computeIfAbsent(entityType, k -> new ArrayList<>()).add(currentTime);
+        AtomicReference<KillWindow> slot = killTimestamps.computeIfAbsent(entityType, k -> new AtomicReference<>(EMPTY_WINDOW));
+        long cutoffTime = currentTime - ConditionalSpawnConfig.KILL_WINDOW_TICKS;
+        
+        // Copy-on-write: build the next snapshot and publish it with a CAS, retrying if another thread won
+        KillWindow current;
+        KillWindow updated;
+        do {
+            current = slot.get();
+            long globalGeneration = GLOBAL_GENERATION.get();
+            long roleGeneration = getRoleGeneration(entityType);
+            
+            // Kills from before a bulk reset are discarded here
+            long[] timestamps = current.isCurrent(globalGeneration, roleGeneration) ? current.timestamps : NO_KILLS;
+            int firstValid = firstIndexAtOrAfter(timestamps, cutoffTime);
+            int insertAt = firstIndexAtOrAfter(timestamps, currentTime + 1);
+            
+            long[] next = new long[timestamps.length - firstValid + 1];
+            int head = insertAt - firstValid;
+            System.arraycopy(timestamps, firstValid, next, 0, head);
+            next[head] = currentTime;
+            System.arraycopy(timestamps, insertAt, next, head + 1, timestamps.length - insertAt);
+            
+            updated = new KillWindow(globalGeneration, roleGeneration, next);
+        } while (!slot.compareAndSet(current, updated));
     }
     
     /**
-     * Gets the current kill count for an entity type within the time window
+     * Gets the current kill count for an entity type within the time window.
+     * Lock-free: counts against the latest published snapshot. A snapshot left
+     * over from before a bulk reset counts as zero and is cleared on the way out.
      * 
      * @param entityType The type of entity
      * @param currentTime Current game time in ticks
      * @return The number of valid kills within the time window
      */
     public int getKillCount(String entityType, long currentTime) {
-        List<Long> timestamps = killTimestamps.get(entityType);
-        if (timestamps == null) {
+        AtomicReference<KillWindow> slot = killTimestamps.get(entityType);
+        if (slot == null) {
             return 0;
         }
         
-        // Clean up old kills and count valid ones
-        long cutoffTime = currentTime - ConditionalSpawnConfig.KILL_WINDOW_TICKS;
-        timestamps.removeIf(time -> time < cutoffTime);
+        KillWindow window = slot.get();
+        long globalGeneration = GLOBAL_GENERATION.get();
+        long roleGeneration = getRoleGeneration(entityType);
+        if (!window.isCurrent(globalGeneration, roleGeneration)) {
+            // Lazily drop stale data; losing the race to a writer is fine, it already replaced it
+            // The empty window carries the current generations so later reads see it as current
+            slot.compareAndSet(window, new KillWindow(globalGeneration, roleGeneration, NO_KILLS));
+            return 0;
+        }
         
-        return timestamps.size();
+        // Timestamps are sorted, so count everything at or after the cutoff
+        long cutoffTime = currentTime - ConditionalSpawnConfig.KILL_WINDOW_TICKS;
+        return window.timestamps.length - firstIndexAtOrAfter(window.timestamps, cutoffTime);
     }
     
     /**
@@ -79,21 +123,91 @@ public class PlayerKillTrackerComponent implements Component<EntityStore> {
     }
     
     /**
-     * Resets kill count for a specific entity type
+     * Resets kill count for a specific entity type.
+     * The slot is cleared in place rather than removed, so a concurrent recordKill
+     * either lands after the reset or retries against the cleared window.
      * 
      * @param entityType The type of entity
      */
     public void resetKills(String entityType) {
-        killTimestamps.remove(entityType);
+        AtomicReference<KillWindow> slot = killTimestamps.get(entityType);
+        if (slot != null) {
+            slot.set(new KillWindow(GLOBAL_GENERATION.get(), getRoleGeneration(entityType), NO_KILLS));
+        }
+    }
+    
+    /**
+     * Resets every player's kills for all entity types (e.g., a seasonal reset).
+     * O(1): bumps the global generation; each tracker discards its old data when next read.
+     */
+    public static void resetAllKills() {
+        GLOBAL_GENERATION.incrementAndGet();
+    }
+    
+    /**
+     * Resets every player's kills for one entity type (e.g., after a rebalance or exploit).
+     * O(1): bumps that role's generation; each tracker discards its old data when next read.
+     * 
+     * @param entityType The type of entity
+     */
+    public static void resetAllKills(@Nonnull String entityType) {
+        ROLE_GENERATIONS.computeIfAbsent(entityType, k -> new AtomicLong()).incrementAndGet();
     }
     
     @Nonnull
     @Override
     public PlayerKillTrackerComponent clone() {
         PlayerKillTrackerComponent clone = new PlayerKillTrackerComponent();
+        // Snapshots are immutable, so sharing them is safe
         this.killTimestamps.forEach((key, value) -> 
-            clone.killTimestamps.put(key, new ArrayList<>(value))
+            clone.killTimestamps.put(key, new AtomicReference<>(value.get()))
         );
         return clone;
     }
+    
+    private static long getRoleGeneration(String entityType) {
+        AtomicLong generation = ROLE_GENERATIONS.get(entityType);
+        return generation == null ? 0L : generation.get();
+    }
+    
+    /**
+     * Finds the first index whose timestamp is at or after the given time
+     * 
+     * @param timestamps Sorted kill timestamps
+     * @param time The time to search for
+     * @return The first matching index, or timestamps.length if none match
+     */
+    private static int firstIndexAtOrAfter(long[] timestamps, long time) {
+        int low = 0;
+        int high = timestamps.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * Immutable kill snapshot for one entity type, stamped with the reset
+     * generations it was written under
+     */
+    private static final class KillWindow {
+        private final long globalGeneration;
+        private final long roleGeneration;
+        private final long[] timestamps;
+        
+        private KillWindow(long globalGeneration, long roleGeneration, long[] timestamps) {
+            this.globalGeneration = globalGeneration;
+            this.roleGeneration = roleGeneration;
+            this.timestamps = timestamps;
+        }
+        
+        private boolean isCurrent(long globalGeneration, long roleGeneration) {
+            return this.globalGeneration == globalGeneration && this.roleGeneration == roleGeneration;
+        }
+    }
 }
@@ -0,0 +1,128 @@
+package com.kdrgold.gbr.components.tracking;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.kdrgold.gbr.config.ConditionalSpawnConfig;
+
+/**
+ * Decaying kill-density map for a single world.
+ * The world is divided into square regions, and only regions that have seen
+ * recent trackable kills are stored. Each region holds an exponentially decaying
+ * heat counter, so a heavily farmed area builds up pressure that fades once
+ * players move on.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+public class RegionalKillHeatMap {
+    
+    // One heat map per loaded world, released when the world is unloaded
+    private static final Map<World, RegionalKillHeatMap> WORLD_HEAT_MAPS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    
+    // Sparse region storage keyed by packed region coordinates
+    private final Map<Long, RegionHeat> regions;
+    
+    // Kills recorded since the last sweep of cold regions
+    private int recordsSinceSweep;
+    
+    public RegionalKillHeatMap() {
+        this.regions = new HashMap<>();
+    }
+    
+    /**
+     * Gets the heat map for a world, creating it on first use
+     *
+     * @param world The world the kills happen in
+     * @return The heat map for that world
+     */
+    @Nonnull
+    public static RegionalKillHeatMap forWorld(@Nonnull World world) {
+        return WORLD_HEAT_MAPS.computeIfAbsent(world, w -> new RegionalKillHeatMap());
+    }
+    
+    /**
+     * Records a kill at the given position
+     *
+     * @param x Victim X position in blocks
+     * @param z Victim Z position in blocks
+     * @param currentTime Current game time in ticks
+     */
+    public synchronized void recordKill(double x, double z, long currentTime) {
+        long key = regionKey(x, z);
+        RegionHeat region = regions.get(key);
+        if (region == null) {
+            region = new RegionHeat();
+            regions.put(key, region);
+        }
+        region.heat = decay(region.heat, region.lastUpdate, currentTime) + 1.0;
+        region.lastUpdate = Math.max(region.lastUpdate, currentTime);
+        
+        // Periodically drop regions that have cooled off so memory follows active hunting grounds
+        if (++recordsSinceSweep >= ConditionalSpawnConfig.REGIONAL_HEAT_SWEEP_INTERVAL) {
+            recordsSinceSweep = 0;
+            sweepColdRegions(currentTime);
+        }
+    }
+    
+    /**
+     * Gets the current decayed heat of the region containing the given position
+     *
+     * @param x Position X in blocks
+     * @param z Position Z in blocks
+     * @param currentTime Current game time in ticks
+     * @return The region's heat, roughly the number of recent kills in it
+     */
+    public synchronized double getHeat(double x, double z, long currentTime) {
+        RegionHeat region = regions.get(regionKey(x, z));
+        if (region == null) {
+            return 0.0;
+        }
+        return decay(region.heat, region.lastUpdate, currentTime);
+    }
+    
+    /**
+     * Gets the number of regions currently held in memory
+     *
+     * @return The active region count
+     */
+    public synchronized int getActiveRegionCount() {
+        return regions.size();
+    }
+    
+    private void sweepColdRegions(long currentTime) {
+        Iterator<RegionHeat> iterator = regions.values().iterator();
+        while (iterator.hasNext()) {
+            RegionHeat region = iterator.next();
+            if (decay(region.heat, region.lastUpdate, currentTime) < ConditionalSpawnConfig.REGIONAL_HEAT_MIN_RETAINED) {
+                iterator.remove();
+            }
+        }
+    }
+    
+    private static double decay(double heat, long lastUpdate, long currentTime) {
+        long elapsed = currentTime - lastUpdate;
+        if (elapsed <= 0) {
+            return heat;
+        }
+        return heat * Math.exp(-elapsed * Math.log(2) / ConditionalSpawnConfig.REGIONAL_HEAT_HALF_LIFE_TICKS);
+    }
+    
+    private static long regionKey(double x, double z) {
+        long regionX = (long) Math.floor(x / ConditionalSpawnConfig.REGION_SIZE_BLOCKS);
+        long regionZ = (long) Math.floor(z / ConditionalSpawnConfig.REGION_SIZE_BLOCKS);
+        return (regionX << 32) | (regionZ & 0xFFFFFFFFL);
+    }
+    
+    private static final class RegionHeat {
+        private double heat;
+        private long lastUpdate;
+    }
+}
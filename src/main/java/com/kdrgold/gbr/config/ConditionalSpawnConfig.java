@@ -103,6 +103,107 @@ public class ConditionalSpawnConfig {
      */
     public static final double SPAWN_DISTANCE_MAX = 20.0;
     
+    // ==================== REGIONAL PRESSURE ====================
+    
+    /**
+     * Side length of a heat map region (blocks)
+     */
+    public static final double REGION_SIZE_BLOCKS = 64.0;
+    
+    /**
+     * Time for a region's kill heat to halve (1 in-game hour = 72,000 ticks at 20 TPS)
+     */
+    public static final double REGIONAL_HEAT_HALF_LIFE_TICKS = 72_000.0;
+    
+    /**
+     * Regions whose heat decays below this value are dropped from memory
+     */
+    public static final double REGIONAL_HEAT_MIN_RETAINED = 0.05;
+    
+    /**
+     * Number of recorded kills between sweeps for cold regions
+     */
+    public static final int REGIONAL_HEAT_SWEEP_INTERVAL = 256;
+    
+    /**
+     * Region heat required before regional pressure adds any spawn chance
+     * Keeps normal hunting from affecting elite spawns; only farmed areas push back
+     */
+    public static final double REGIONAL_HEAT_PRESSURE_START = 8.0;
+    
+    /**
+     * Heat above the pressure start at which half of the maximum regional bonus is applied
+     */
+    public static final double REGIONAL_HEAT_HALF_PRESSURE = 15.0;
+    
+    /**
+     * Maximum spawn chance added by regional pressure (applies even below a player's own threshold)
+     */
+    public static final double REGIONAL_PRESSURE_MAX_BONUS = 0.25; // 25%
+    
+    // ==================== LOAD SHEDDING ====================
+    
+    /**
+     * Enable degraded mode when GBR goes over its tick budget or the world's TPS drops
+     * Kill counting is always exact; only spawn work, notifications, and logging are shed
+     */
+    public static final boolean ENABLE_LOAD_SHEDDING = true;
+    
+    /**
+     * Time GBR may spend per world tick before degraded mode kicks in (2 ms)
+     */
+    public static final long GBR_TICK_BUDGET_NANOS = 2_000_000L;
+    
+    /**
+     * Server tick rate the game targets
+     */
+    public static final double TARGET_TPS = 20.0;
+    
+    /**
+     * Smoothed TPS below which degraded mode kicks in
+     */
+    public static final double LOAD_SHEDDING_MIN_TPS = 15.0;
+    
+    /**
+     * Weight of the newest tick in the smoothed TPS (0.0 to 1.0)
+     */
+    public static final double TPS_SMOOTHING = 0.1;
+    
+    /**
+     * Consecutive over-budget ticks required to enter degraded mode, so a single spike is ignored
+     */
+    public static final int LOAD_SHEDDING_TRIGGER_TICKS = 5;
+    
+    /**
+     * Consecutive healthy ticks required to leave degraded mode (5 seconds = 100 ticks at 20 TPS)
+     */
+    public static final int LOAD_SHEDDING_RECOVERY_TICKS = 100;
+    
+    /**
+     * Maximum elite spawns started per world tick in normal mode
+     */
+    public static final int MAX_ELITE_SPAWNS_PER_TICK = 4;
+    
+    /**
+     * Maximum elite spawns started per world tick in degraded mode
+     */
+    public static final int DEGRADED_MAX_ELITE_SPAWNS_PER_TICK = 1;
+    
+    /**
+     * Deferred spawn tasks run per world tick in normal mode (drains the backlog after recovery)
+     */
+    public static final int DEFERRED_TASKS_PER_TICK = 16;
+    
+    /**
+     * Deferred spawn tasks run per world tick in degraded mode
+     */
+    public static final int DEGRADED_DEFERRED_TASKS_PER_TICK = 2;
+    
+    /**
+     * Maximum deferred spawn tasks held per world; further spawn rolls are dropped while full
+     */
+    public static final int MAX_DEFERRED_SPAWN_TASKS = 512;
+    
     // ==================== BLEED MECHANICS ====================
     
     /**
@@ -142,6 +243,22 @@ public class ConditionalSpawnConfig {
         }
     }
     
+    /**
+     * Calculates the extra spawn chance from regional kill pressure.
+     * No bonus below REGIONAL_HEAT_PRESSURE_START, then grows smoothly with region heat
+     * and never exceeds REGIONAL_PRESSURE_MAX_BONUS.
+     * 
+     * @param regionHeat The decayed kill heat of the region
+     * @return The bonus spawn chance as a decimal (0.0 to REGIONAL_PRESSURE_MAX_BONUS)
+     */
+    public static double calculateRegionalBonus(double regionHeat) {
+        double excessHeat = regionHeat - REGIONAL_HEAT_PRESSURE_START;
+        if (excessHeat <= 0.0) {
+            return 0.0;
+        }
+        return REGIONAL_PRESSURE_MAX_BONUS * excessHeat / (excessHeat + REGIONAL_HEAT_HALF_PRESSURE);
+    }
+    
     /**
      * Gets the appropriate elite entity type for a base entity type
      * 
@@ -165,6 +282,29 @@ public class ConditionalSpawnConfig {
         }
     }
     
+    /**
+     * Gets the base entity type whose kills spawn an elite variant
+     * 
+     * @param eliteEntityType The elite entity type
+     * @return The base entity type, or null if the entity is not an elite variant
+     */
+    public static String getBaseVariant(String eliteEntityType) {
+        switch (eliteEntityType) {
+            case ENTITY_BATTLE_SCARRED_WOLF:
+                return ENTITY_WOLF;
+            case ENTITY_BATTLE_HARDENED_BEAR:
+                return ENTITY_GRIZZLY_BEAR;
+            case ENTITY_ADVENTURER_BEAR:
+                return ENTITY_BATTLE_HARDENED_BEAR;
+            case ENTITY_UMBRA_TOAD:
+                return ENTITY_TOAD_RHINO_MAGMA;
+            case ENTITY_UMBRA_REX:
+                return ENTITY_REX_CAVE;
+            default:
+                return null;
+        }
+    }
+    
     /**
      * Gets the kill threshold for a specific base entity type
      * 
@@ -0,0 +1,124 @@
+package com.kdrgold.gbr.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.kdrgold.gbr.loot.EliteLootTable;
+import com.kdrgold.gbr.loot.EliteLootTable.LootEntry;
+
+/**
+ * Bonus loot tables for elite variants, rolled by GBR on top of the
+ * Server/Drops/NPCs/Beast/Drop_*.json tables.
+ * Alias tables for every streak tier are built once when this class loads.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+public class EliteLootConfig {
+    
+    // ==================== MASTER TOGGLES ====================
+    
+    /**
+     * Enable GBR-side bonus loot for elites killed by players
+     */
+    public static final boolean ENABLE_ELITE_BONUS_LOOT = true;
+    
+    // ==================== ROLLS & STREAKS ====================
+    
+    /**
+     * Number of bonus loot rolls per elite kill
+     */
+    public static final int ELITE_LOOT_ROLLS = 2;
+    
+    /**
+     * Highest kill streak tier (kills above threshold) with its own weights
+     * Streaks beyond this use the top tier's weights
+     */
+    public static final int MAX_STREAK_TIER = 5;
+    
+    // ==================== LOOT TABLES ====================
+    
+    private static final Map<String, EliteLootTable> LOOT_TABLES;
+    
+    static {
+        Map<String, EliteLootTable> tables = new HashMap<>();
+        
+        // entry(itemId, weight, streakBoost, min, max) - streakBoost adds that fraction of the weight per tier
+        tables.put(ConditionalSpawnConfig.ENTITY_BATTLE_SCARRED_WOLF, table(
+            entry("Ingredient_Hide_Medium", 40, 0.0, 1, 3),
+            entry("Ingredient_Bone_Fragment", 30, 0.0, 1, 3),
+            entry("Ingredient_Bar_Iron", 15, 0.5, 1, 2),
+            entry("Ingredient_Bar_Silver", 10, 1.0, 1, 2),
+            entry("Ingredient_Bar_Gold", 5, 1.5, 1, 1)
+        ));
+        
+        tables.put(ConditionalSpawnConfig.ENTITY_BATTLE_HARDENED_BEAR, table(
+            entry("Ingredient_Hide_Heavy", 40, 0.0, 1, 3),
+            entry("Ingredient_Fabric_Scrap_Linen", 25, 0.0, 1, 2),
+            entry("Ingredient_Bar_Iron", 20, 0.5, 1, 2),
+            entry("Ingredient_Bar_Gold", 10, 1.0, 1, 2),
+            entry("Armor_Bronze_Head", 5, 1.5, 1, 1)
+        ));
+        
+        tables.put(ConditionalSpawnConfig.ENTITY_ADVENTURER_BEAR, table(
+            entry("Ingredient_Hide_Heavy", 35, 0.0, 2, 4),
+            entry("Ingredient_Bar_Iron", 25, 0.0, 1, 3),
+            entry("Ingredient_Bar_Gold", 20, 0.5, 1, 2),
+            entry("Ingredient_Bar_Thorium", 12, 1.0, 1, 2),
+            entry("Armor_Iron_Head", 8, 1.5, 1, 1)
+        ));
+        
+        tables.put(ConditionalSpawnConfig.ENTITY_UMBRA_TOAD, table(
+            entry("Ingredient_Hide_Medium", 35, 0.0, 1, 3),
+            entry("Ore_Copper", 25, 0.0, 2, 4),
+            entry("Ore_Iron", 20, 0.5, 1, 3),
+            entry("Ore_Silver", 12, 1.0, 1, 2),
+            entry("Ore_Gold", 8, 1.5, 1, 2)
+        ));
+        
+        tables.put(ConditionalSpawnConfig.ENTITY_UMBRA_REX, table(
+            entry("Ingredient_Hide_Heavy", 30, 0.0, 2, 4),
+            entry("Ingredient_Bar_Iron", 25, 0.0, 1, 3),
+            entry("Ingredient_Bar_Silver", 18, 0.5, 1, 2),
+            entry("Ingredient_Bar_Thorium", 12, 1.0, 1, 2),
+            entry("Ingredient_Bar_Cobalt", 10, 1.5, 1, 2),
+            entry("Ingredient_Bar_Adamantite", 5, 2.0, 1, 1)
+        ));
+        
+        LOOT_TABLES = Collections.unmodifiableMap(tables);
+    }
+    
+    // ==================== HELPER METHODS ====================
+    
+    /**
+     * Gets the bonus loot table for an elite variant
+     *
+     * @param eliteEntityType The elite entity type
+     * @return The loot table, or null if the entity has no bonus loot
+     */
+    public static EliteLootTable getLootTable(String eliteEntityType) {
+        return LOOT_TABLES.get(eliteEntityType);
+    }
+    
+    /**
+     * Calculates the streak tier from the kill count that earned the elite.
+     * Kills exactly at threshold are tier 0; each kill above adds one tier.
+     *
+     * @param killCount The player's kill count of the base entity in the window
+     * @param threshold The spawn threshold of the base entity
+     * @return The streak tier (0 to MAX_STREAK_TIER)
+     */
+    public static int calculateStreakTier(int killCount, int threshold) {
+        return Math.max(0, Math.min(killCount - threshold, MAX_STREAK_TIER));
+    }
+    
+    private static EliteLootTable table(LootEntry... entries) {
+        return new EliteLootTable(Arrays.asList(entries), MAX_STREAK_TIER);
+    }
+    
+    private static LootEntry entry(String itemId, double weight, double streakBoost, int quantityMin, int quantityMax) {
+        return new LootEntry(itemId, weight, streakBoost, quantityMin, quantityMax);
+    }
+}
@@ -0,0 +1,33 @@
+package com.kdrgold.gbr.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one GBR death handler invocation.
+ * The event duration is the time GBR spent inside the handler.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+@Name("gbr.DeathHandled")
+@Label("GBR Death Handled")
+@Category({"GBR", "Death Handling"})
+@Description("Time spent by a GBR death system on one entity death")
+@StackTrace(false)
+public class DeathHandledEvent extends Event {
+    
+    @Label("System")
+    public String system;
+    
+    @Label("NPC Role")
+    public String role;
+    
+    @Label("Filtered Reason")
+    @Description("Why the death was skipped, or null if it was fully handled")
+    public String filteredReason;
+}
@@ -0,0 +1,32 @@
+package com.kdrgold.gbr.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted when a player kill is recorded in a kill tracker.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+@Name("gbr.KillRecorded")
+@Label("GBR Kill Recorded")
+@Category({"GBR", "Kill Tracking"})
+@Description("A trackable kill was added to a player's kill window")
+@StackTrace(false)
+public class KillRecordedEvent extends Event {
+    
+    @Label("NPC Role")
+    public String role;
+    
+    @Label("Window Kill Count")
+    @Description("Kills of this role inside the tracking window after recording")
+    public int windowKillCount;
+    
+    @Label("Threshold")
+    public int threshold;
+}
@@ -0,0 +1,35 @@
+package com.kdrgold.gbr.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event covering the queued elite spawn task running on the world thread.
+ * The event duration is the spawn itself; the queue delay is the time the
+ * task waited between being queued and starting.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+@Name("gbr.SpawnExecuted")
+@Label("GBR Spawn Executed")
+@Category({"GBR", "Elite Spawning"})
+@Description("A queued elite spawn ran on the world thread")
+@StackTrace(false)
+public class SpawnExecutedEvent extends Event {
+    
+    @Label("Elite Variant")
+    public String eliteVariant;
+    
+    @Label("Queue Delay")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueDelay;
+    
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,44 @@
+package com.kdrgold.gbr.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted when an elite spawn chance is rolled.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+@Name("gbr.SpawnRolled")
+@Label("GBR Spawn Rolled")
+@Category({"GBR", "Elite Spawning"})
+@Description("An elite spawn chance was rolled for a player kill")
+@StackTrace(false)
+public class SpawnRolledEvent extends Event {
+    
+    @Label("NPC Role")
+    public String role;
+    
+    @Label("Kill Count")
+    public int killCount;
+    
+    @Label("Spawn Chance")
+    @Percentage
+    public double spawnChance;
+    
+    @Label("Regional Bonus")
+    @Percentage
+    public double regionalBonus;
+    
+    @Label("Roll")
+    @Percentage
+    public double roll;
+    
+    @Label("Passed")
+    public boolean passed;
+}
@@ -0,0 +1,198 @@
+package com.kdrgold.gbr.diagnostics;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.kdrgold.gbr.config.ConditionalSpawnConfig;
+
+/**
+ * Tracks how much time GBR spends per world tick and decides when to shed load.
+ * A world enters degraded mode when GBR's own work stays over its budget for
+ * several ticks in a row or the world's TPS drops, and leaves it after a run of
+ * healthy ticks.
+ * While degraded, spawn evaluation is deferred to later ticks, the per-tick
+ * spawn cap is tightened, and non-essential logging/notifications are paused.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+public class TickBudgetMonitor {
+    
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    
+    // One monitor per loaded world, released when the world is unloaded
+    private static final Map<World, TickBudgetMonitor> WORLD_MONITORS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    
+    // Spawn work waiting for a later tick
+    private final ArrayDeque<DeferredTask> deferredTasks;
+    
+    // GBR time spent and elite spawns started in the current tick
+    private long workNanosThisTick;
+    private int spawnsThisTick;
+    
+    // Smoothed ticks per second from the wall-clock time between ticks
+    private double smoothedTps;
+    private long lastTickNanos;
+    
+    private boolean degraded;
+    private int overBudgetTicks;
+    private int healthyTicks;
+    
+    public TickBudgetMonitor() {
+        this.deferredTasks = new ArrayDeque<>();
+        this.smoothedTps = ConditionalSpawnConfig.TARGET_TPS;
+    }
+    
+    /**
+     * Gets the monitor for a world, creating it on first use
+     *
+     * @param world The world being ticked
+     * @return The monitor for that world
+     */
+    @Nonnull
+    public static TickBudgetMonitor forWorld(@Nonnull World world) {
+        return WORLD_MONITORS.computeIfAbsent(world, w -> new TickBudgetMonitor());
+    }
+    
+    /**
+     * Adds time spent by GBR to the current tick
+     *
+     * @param elapsedNanos Time spent in nanoseconds
+     */
+    public synchronized void recordWork(long elapsedNanos) {
+        workNanosThisTick += elapsedNanos;
+    }
+    
+    /**
+     * Closes out the previous tick and updates degraded mode.
+     * Called once per world tick before any deferred work runs.
+     */
+    public synchronized void onTick() {
+        // Measure the real interval - the tick delta is the nominal step and hides slow ticks
+        long now = System.nanoTime();
+        if (lastTickNanos != 0L && now > lastTickNanos) {
+            double tickTps = Math.min(ConditionalSpawnConfig.TARGET_TPS, 1_000_000_000.0 / (now - lastTickNanos));
+            smoothedTps += (tickTps - smoothedTps) * ConditionalSpawnConfig.TPS_SMOOTHING;
+        }
+        lastTickNanos = now;
+        
+        // A single slow tick (GC pause, chunk load) should not trigger a long stretch of degraded mode
+        if (workNanosThisTick > ConditionalSpawnConfig.GBR_TICK_BUDGET_NANOS) {
+            overBudgetTicks++;
+        } else {
+            overBudgetTicks = 0;
+        }
+        boolean overBudget = overBudgetTicks >= ConditionalSpawnConfig.LOAD_SHEDDING_TRIGGER_TICKS;
+        boolean lowTps = smoothedTps < ConditionalSpawnConfig.LOAD_SHEDDING_MIN_TPS;
+        
+        if (overBudget || lowTps) {
+            healthyTicks = 0;
+            if (!degraded) {
+                degraded = true;
+                LOGGER.atWarning().log("[GBR] Entering degraded mode (GBR tick time: " + (workNanosThisTick / 1000) + "us, TPS: " + String.format("%.1f", smoothedTps) + ")");
+            }
+        } else if (degraded && ++healthyTicks >= ConditionalSpawnConfig.LOAD_SHEDDING_RECOVERY_TICKS) {
+            degraded = false;
+            LOGGER.atInfo().log("[GBR] Load recovered - leaving degraded mode (" + deferredTasks.size() + " deferred spawn tasks pending)");
+        }
+        
+        workNanosThisTick = 0;
+        spawnsThisTick = 0;
+    }
+    
+    /**
+     * Checks if the world is currently shedding load
+     *
+     * @return true while in degraded mode
+     */
+    public synchronized boolean isDegraded() {
+        return degraded;
+    }
+    
+    /**
+     * Claims one elite spawn slot for the current tick
+     *
+     * @return true if the per-tick spawn cap has not been reached
+     */
+    public synchronized boolean tryAcquireSpawnSlot() {
+        if (!ConditionalSpawnConfig.ENABLE_LOAD_SHEDDING) {
+            return true; // Slots are only reset by LoadSheddingSystem
+        }
+        int cap = degraded
+            ? ConditionalSpawnConfig.DEGRADED_MAX_ELITE_SPAWNS_PER_TICK
+            : ConditionalSpawnConfig.MAX_ELITE_SPAWNS_PER_TICK;
+        if (spawnsThisTick >= cap) {
+            return false;
+        }
+        spawnsThisTick++;
+        return true;
+    }
+    
+    /**
+     * Queues spawn work for a later tick
+     *
+     * @param task The work to run
+     * @return false if the queue is full and the task was dropped
+     */
+    public synchronized boolean defer(@Nonnull DeferredTask task) {
+        if (deferredTasks.size() >= ConditionalSpawnConfig.MAX_DEFERRED_SPAWN_TASKS) {
+            return false;
+        }
+        deferredTasks.addLast(task);
+        return true;
+    }
+    
+    /**
+     * Runs queued spawn work, limited per tick (tighter while degraded).
+     * Tasks that defer themselves again are left for the next tick.
+     *
+     * @param store The entity store of the world being ticked
+     */
+    public void runDeferred(@Nonnull Store<EntityStore> store) {
+        int budget;
+        synchronized (this) {
+            int limit = degraded
+                ? ConditionalSpawnConfig.DEGRADED_DEFERRED_TASKS_PER_TICK
+                : ConditionalSpawnConfig.DEFERRED_TASKS_PER_TICK;
+            budget = Math.min(limit, deferredTasks.size());
+        }
+        
+        for (int i = 0; i < budget; i++) {
+            DeferredTask task;
+            synchronized (this) {
+                task = deferredTasks.pollFirst();
+            }
+            if (task == null) {
+                return;
+            }
+            
+            // One failing task must not drop the rest of this tick's work
+            try {
+                task.run(store, this);
+            } catch (Exception e) {
+                LOGGER.atSevere().log("[GBR] Error running deferred spawn task: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+    
+    /**
+     * Spawn work waiting for a later tick.
+     * The world's store and monitor are passed in when the task runs, so queued
+     * work never holds on to the world and an unloaded world can be released.
+     */
+    @FunctionalInterface
+    public interface DeferredTask {
+        
+        void run(@Nonnull Store<EntityStore> store, @Nonnull TickBudgetMonitor monitor);
+    }
+}
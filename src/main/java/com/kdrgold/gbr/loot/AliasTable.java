@@ -0,0 +1,112 @@
+package com.kdrgold.gbr.loot;
+
+import java.util.Random;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Walker alias table for sampling an index from a fixed weighted distribution.
+ * Built once in O(n) using Vose's method; every sample afterwards is O(1)
+ * regardless of table size (one uniform column pick plus one biased coin flip).
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+public class AliasTable {
+    
+    // Probability of keeping each column instead of jumping to its alias
+    private final double[] probability;
+    
+    // Fallback index for each column
+    private final int[] alias;
+    
+    /**
+     * Builds an alias table from relative weights
+     *
+     * @param weights Non-negative weights, at least one of which must be positive
+     * @throws IllegalArgumentException if the weights are empty, negative, or all zero
+     */
+    public AliasTable(@Nonnull double[] weights) {
+        int size = weights.length;
+        if (size == 0) {
+            throw new IllegalArgumentException("Alias table needs at least one weight");
+        }
+        
+        double total = 0.0;
+        for (double weight : weights) {
+            if (weight < 0.0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid alias table weight: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0.0) {
+            throw new IllegalArgumentException("Alias table weights must not all be zero");
+        }
+        
+        this.probability = new double[size];
+        this.alias = new int[size];
+        
+        // Scale weights so the average column holds exactly 1.0
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        
+        // Pair each underfull column with an overfull one
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            
+            probability[less] = scaled[less];
+            alias[less] = more;
+            
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        
+        // Whatever is left is full up to floating point error
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+    }
+    
+    /**
+     * Samples an index in constant time
+     *
+     * @param random Source of randomness
+     * @return An index into the original weights array
+     */
+    public int sample(@Nonnull Random random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+    
+    /**
+     * Gets the number of entries in the table
+     *
+     * @return The table size
+     */
+    public int size() {
+        return probability.length;
+    }
+}
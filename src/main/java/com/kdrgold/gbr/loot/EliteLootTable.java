@@ -0,0 +1,125 @@
+package com.kdrgold.gbr.loot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Weighted bonus loot table for an elite variant.
+ * One alias table is precomputed per kill streak tier, with each entry's weight
+ * scaled by its streak boost, so rare entries become more likely the longer the
+ * streak that earned the elite. Rolling is O(1) for any table size.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+public class EliteLootTable {
+    
+    private final List<LootEntry> entries;
+    
+    // Alias table for each streak tier, index 0 = kill count exactly at threshold
+    private final AliasTable[] tierTables;
+    
+    /**
+     * Builds the table and precomputes an alias table for every streak tier
+     *
+     * @param entries The loot entries
+     * @param maxStreakTier The highest streak tier; longer streaks use this tier
+     */
+    public EliteLootTable(@Nonnull List<LootEntry> entries, int maxStreakTier) {
+        if (entries.isEmpty()) {
+            throw new IllegalArgumentException("Elite loot table needs at least one entry");
+        }
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+        this.tierTables = new AliasTable[Math.max(0, maxStreakTier) + 1];
+        
+        for (int tier = 0; tier < tierTables.length; tier++) {
+            double[] weights = new double[entries.size()];
+            for (int i = 0; i < weights.length; i++) {
+                LootEntry entry = entries.get(i);
+                weights[i] = entry.getWeight() * (1.0 + entry.getStreakBoost() * tier);
+            }
+            tierTables[tier] = new AliasTable(weights);
+        }
+    }
+    
+    /**
+     * Rolls one entry for the given streak tier
+     *
+     * @param streakTier Kills above the spawn threshold; clamped to the table's tier range
+     * @param random Source of randomness
+     * @return The rolled loot entry
+     */
+    @Nonnull
+    public LootEntry roll(int streakTier, @Nonnull Random random) {
+        int tier = Math.max(0, Math.min(streakTier, tierTables.length - 1));
+        return entries.get(tierTables[tier].sample(random));
+    }
+    
+    /**
+     * Gets the highest streak tier with its own alias table
+     *
+     * @return The maximum streak tier
+     */
+    public int getMaxStreakTier() {
+        return tierTables.length - 1;
+    }
+    
+    @Nonnull
+    public List<LootEntry> getEntries() {
+        return entries;
+    }
+    
+    /**
+     * A single weighted item drop
+     */
+    public static class LootEntry {
+        
+        private final String itemId;
+        private final double weight;
+        private final double streakBoost;
+        private final int quantityMin;
+        private final int quantityMax;
+        
+        /**
+         * @param itemId The item to drop
+         * @param weight Base weight at streak tier 0
+         * @param streakBoost Fraction of the base weight added per streak tier (0 = unaffected)
+         * @param quantityMin Minimum stack size
+         * @param quantityMax Maximum stack size
+         */
+        public LootEntry(@Nonnull String itemId, double weight, double streakBoost, int quantityMin, int quantityMax) {
+            this.itemId = itemId;
+            this.weight = weight;
+            this.streakBoost = streakBoost;
+            this.quantityMin = quantityMin;
+            this.quantityMax = Math.max(quantityMin, quantityMax);
+        }
+        
+        @Nonnull
+        public String getItemId() {
+            return itemId;
+        }
+        
+        public double getWeight() {
+            return weight;
+        }
+        
+        public double getStreakBoost() {
+            return streakBoost;
+        }
+        
+        /**
+         * Rolls a stack size between the minimum and maximum (inclusive)
+         *
+         * @param random Source of randomness
+         * @return The stack size
+         */
+        public int rollQuantity(@Nonnull Random random) {
+            return quantityMin + random.nextInt(quantityMax - quantityMin + 1);
+        }
+    }
+}
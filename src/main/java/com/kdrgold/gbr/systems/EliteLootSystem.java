@@ -0,0 +1,176 @@
+package com.kdrgold.gbr.systems;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.Archetype;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Holder;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DeathComponent;
+import com.hypixel.hytale.server.core.modules.entity.damage.DeathSystems;
+import com.hypixel.hytale.server.core.modules.entity.item.ItemComponent;
+import com.hypixel.hytale.server.core.modules.time.WorldTimeResource;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.npc.entities.NPCEntity;
+import com.kdrgold.gbr.components.tracking.PlayerKillTrackerComponent;
+import com.kdrgold.gbr.config.ConditionalSpawnConfig;
+import com.kdrgold.gbr.config.EliteLootConfig;
+import com.kdrgold.gbr.diagnostics.DeathHandledEvent;
+import com.kdrgold.gbr.diagnostics.TickBudgetMonitor;
+import com.kdrgold.gbr.loot.EliteLootTable;
+
+/**
+ * System that drops bonus loot when a player kills an elite NPC.
+ * The player's kill streak on the elite's base entity selects a precomputed
+ * alias table, so longer streaks favour rarer items at constant cost per roll.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+public class EliteLootSystem extends DeathSystems.OnDeathSystem {
+    
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private final Random random = new Random();
+    
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        // Track all entity deaths - we'll filter for elite NPCs in the handler
+        return Archetype.empty();
+    }
+    
+    @Override
+    public void onComponentAdded(@Nonnull Ref<EntityStore> deadEntityRef,
+                                 @Nonnull DeathComponent deathComponent,
+                                 @Nonnull Store<EntityStore> store,
+                                 @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        // Only populate the JFR event while a recording has it enabled
+        DeathHandledEvent deathEvent = new DeathHandledEvent();
+        boolean recording = deathEvent.isEnabled();
+        if (recording) {
+            deathEvent.begin();
+        }
+        String deadRole = null;
+        String filteredReason = null;
+        long startNanos = System.nanoTime();
+        try {
+            // Check if the dead entity is an elite with bonus loot
+            NPCEntity npcComponent = store.getComponent(deadEntityRef, NPCEntity.getComponentType());
+            if (npcComponent == null) {
+                filteredReason = "not_npc";
+                return;
+            }
+            
+            String npcRole = npcComponent.getRoleName();
+            deadRole = npcRole;
+            if (npcRole == null) {
+                filteredReason = "no_role";
+                return;
+            }
+            
+            EliteLootTable lootTable = EliteLootConfig.getLootTable(npcRole);
+            String baseRole = ConditionalSpawnConfig.getBaseVariant(npcRole);
+            if (lootTable == null || baseRole == null) {
+                filteredReason = "not_elite";
+                return;
+            }
+            
+            // Get the killer (must be a player)
+            Damage deathInfo = deathComponent.getDeathInfo();
+            if (deathInfo == null || !(deathInfo.getSource() instanceof Damage.EntitySource)) {
+                filteredReason = "no_entity_killer";
+                return;
+            }
+            
+            Damage.EntitySource source = (Damage.EntitySource) deathInfo.getSource();
+            Ref<EntityStore> killerRef = source.getRef();
+            
+            if (killerRef == null || !killerRef.isValid()) {
+                filteredReason = "invalid_killer";
+                return;
+            }
+            
+            Player playerComponent = store.getComponent(killerRef, Player.getComponentType());
+            if (playerComponent == null) {
+                filteredReason = "not_player";
+                return;
+            }
+            
+            // Streak comes from the base kills that earned this elite
+            int streakTier = 0;
+            PlayerKillTrackerComponent killTracker = commandBuffer.getComponent(killerRef, PlayerKillTrackerComponent.TYPE);
+            if (killTracker != null) {
+                long currentTime = getCurrentGameTime(store);
+                int killCount = killTracker.getKillCount(baseRole, currentTime);
+                streakTier = EliteLootConfig.calculateStreakTier(killCount, ConditionalSpawnConfig.getThreshold(baseRole));
+            }
+            
+            TransformComponent victimTransform = store.getComponent(deadEntityRef, TransformComponent.getComponentType());
+            if (victimTransform == null) {
+                filteredReason = "no_victim_transform";
+                return;
+            }
+            
+            // Roll bonus loot - each roll is O(1) via the tier's alias table
+            List<ItemStack> drops = new ArrayList<>(EliteLootConfig.ELITE_LOOT_ROLLS);
+            for (int i = 0; i < EliteLootConfig.ELITE_LOOT_ROLLS; i++) {
+                EliteLootTable.LootEntry entry = lootTable.roll(streakTier, random);
+                drops.add(new ItemStack(entry.getItemId(), entry.rollQuantity(random)));
+            }
+            
+            Holder<EntityStore>[] itemEntities = ItemComponent.generateItemDrops(
+                commandBuffer,
+                drops,
+                victimTransform.getPosition(),
+                new Vector3f(0.0f, 0.0f, 0.0f)
+            );
+            commandBuffer.addEntities(itemEntities, AddReason.SPAWN);
+            
+            if (ConditionalSpawnConfig.DEBUG_MODE) {
+                LOGGER.atInfo().log("[GBR] Dropped " + drops.size() + " bonus items for " + npcRole + " (streak tier " + streakTier + ")");
+            }
+        
+        } catch (Exception e) {
+            LOGGER.atSevere().log("[GBR] Error dropping elite loot: " + e.getMessage());
+            filteredReason = "error";
+            e.printStackTrace();
+        } finally {
+            World world = ((EntityStore)store.getExternalData()).getWorld();
+            if (world != null) {
+                TickBudgetMonitor.forWorld(world).recordWork(System.nanoTime() - startNanos);
+            }
+            if (recording) {
+                deathEvent.system = "EliteLootSystem";
+                deathEvent.role = deadRole;
+                deathEvent.filteredReason = filteredReason;
+                deathEvent.commit();
+            }
+        }
+    }
+    
+    private long getCurrentGameTime(Store<EntityStore> store) {
+        try {
+            WorldTimeResource timeResource = store.getResource(WorldTimeResource.getResourceType());
+            if (timeResource != null) {
+                return timeResource.getGameTime().toEpochMilli() / 50; // Convert to ticks
+            }
+        } catch (Exception e) {
+            LOGGER.atWarning().log("[GBR] Could not get game time: " + e.getMessage());
+        }
+        return System.currentTimeMillis() / 50; // Fallback
+    }
+}
@@ -27,7 +27,12 @@ import com.hypixel.hytale.server.core.util.NotificationUtil;
 import com.hypixel.hytale.server.npc.NPCPlugin;
 import com.hypixel.hytale.server.npc.entities.NPCEntity;
 import com.kdrgold.gbr.components.tracking.PlayerKillTrackerComponent;
+import com.kdrgold.gbr.components.tracking.RegionalKillHeatMap;
 import com.kdrgold.gbr.config.ConditionalSpawnConfig;
+import com.kdrgold.gbr.diagnostics.DeathHandledEvent;
+import com.kdrgold.gbr.diagnostics.SpawnExecutedEvent;
+import com.kdrgold.gbr.diagnostics.SpawnRolledEvent;
+import com.kdrgold.gbr.diagnostics.TickBudgetMonitor;
 
 import it.unimi.dsi.fastutil.Pair;
 
@@ -55,6 +60,15 @@ public class EliteSpawnSystem extends DeathSystems.OnDeathSystem {
                                  @Nonnull DeathComponent deathComponent,
                                  @Nonnull Store<EntityStore> store,
                                  @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        // Only populate the JFR event while a recording has it enabled
+        DeathHandledEvent deathEvent = new DeathHandledEvent();
+        boolean recording = deathEvent.isEnabled();
+        if (recording) {
+            deathEvent.begin();
+        }
+        String deadRole = null;
+        String filteredReason = null;
+        long startNanos = System.nanoTime();
         try {
             if (ConditionalSpawnConfig.DEBUG_MODE) {
                 LOGGER.atInfo().log("[GBR] EliteSpawnSystem.onComponentAdded triggered!");
@@ -63,11 +77,14 @@ public class EliteSpawnSystem extends DeathSystems.OnDeathSystem {
             // Check if the dead entity is a trackable NPC
             NPCEntity npcComponent = store.getComponent(deadEntityRef, NPCEntity.getComponentType());
             if (npcComponent == null) {
+                filteredReason = "not_npc";
                 return;
             }
             
             String npcRole = npcComponent.getRoleName();
+            deadRole = npcRole;
             if (npcRole == null || !ConditionalSpawnConfig.isTrackableEntity(npcRole)) {
+                filteredReason = "not_trackable";
                 return;
             }
             
@@ -78,6 +95,7 @@ public class EliteSpawnSystem extends DeathSystems.OnDeathSystem {
             // Get the killer (must be a player)
             Damage deathInfo = deathComponent.getDeathInfo();
             if (deathInfo == null || !(deathInfo.getSource() instanceof Damage.EntitySource)) {
+                filteredReason = "no_entity_killer";
                 return;
             }
             
@@ -85,17 +103,20 @@ public class EliteSpawnSystem extends DeathSystems.OnDeathSystem {
             Ref<EntityStore> killerRef = source.getRef();
             
             if (killerRef == null || !killerRef.isValid()) {
+                filteredReason = "invalid_killer";
                 return;
             }
             
             Player playerComponent = store.getComponent(killerRef, Player.getComponentType());
             if (playerComponent == null) {
+                filteredReason = "not_player";
                 return;
             }
             
             // Get PlayerRef for notifications
             PlayerRef playerRef = store.getComponent(killerRef, PlayerRef.getComponentType());
             if (playerRef == null) {
+                filteredReason = "no_player_ref";
                 return;
             }
             
@@ -107,6 +128,7 @@ public class EliteSpawnSystem extends DeathSystems.OnDeathSystem {
                 if (ConditionalSpawnConfig.DEBUG_MODE) {
                     LOGGER.atInfo().log("[GBR] No kill tracker found - KillTrackingSystem should run first");
                 }
+                filteredReason = "no_tracker";
                 return;
             }
             
@@ -124,85 +146,204 @@ public class EliteSpawnSystem extends DeathSystems.OnDeathSystem {
                 LOGGER.atInfo().log("[GBR] Kill count: " + killCount + ", threshold: " + threshold);
             }
             
-            if (killCount < threshold) {
-                return; // Below threshold
+            World world = ((EntityStore)store.getExternalData()).getWorld();
+            if (world == null) {
+                filteredReason = "no_world";
+                return;
             }
+            TickBudgetMonitor monitor = TickBudgetMonitor.forWorld(world);
             
-            // Calculate spawn chance
-            double spawnChance = ConditionalSpawnConfig.calculateSpawnChance(killCount, threshold);
-            double roll = random.nextDouble();
-            
-            if (ConditionalSpawnConfig.DEBUG_MODE) {
-                LOGGER.atInfo().log("[GBR] Spawn check: " + killCount + " kills, " + (spawnChance * 100) + "% chance, rolled " + (roll * 100) + "%");
-            }
+            // Regional pressure from the area the victim died in - catches kills spread across several players
+            double regionalBonus = calculateRegionalBonus(deadEntityRef, store, world, currentTime);
             
-            if (roll > spawnChance) {
-                LOGGER.atInfo().log("[GBR] Elite spawn failed roll (" + (roll * 100) + "% > " + (spawnChance * 100) + "%)");
-                return; // Failed spawn chance
-            }
-            
-            // Get elite variant to spawn
-            String eliteVariant = ConditionalSpawnConfig.getEliteVariant(npcRole);
-            if (eliteVariant == null) {
-                return;
+            // Calculate spawn chance
+            double spawnChance = Math.min(1.0, ConditionalSpawnConfig.calculateSpawnChance(killCount, threshold) + regionalBonus);
+            if (spawnChance <= 0.0) {
+                filteredReason = "below_threshold";
+                return; // Below threshold and no regional pressure
             }
             
-            // Get spawn location near player
-            TransformComponent playerTransform = commandBuffer.getComponent(killerRef, TransformComponent.getComponentType());
-            if (playerTransform == null) {
+            // Under load, roll on a later tick instead - the kill itself is already counted
+            if (monitor.isDegraded()) {
+                boolean queued = monitor.defer((liveStore, liveMonitor) ->
+                    rollAndSpawn(npcRole, killCount, spawnChance, regionalBonus, playerRef, liveStore, liveMonitor)
+                );
+                if (!queued && ConditionalSpawnConfig.DEBUG_MODE) {
+                    LOGGER.atInfo().log("[GBR] Deferred spawn queue full - dropping spawn roll for " + npcRole);
+                }
+                filteredReason = queued ? "deferred" : "shed";
                 return;
             }
             
-            Vector3d spawnLocation = calculateSpawnLocation(playerTransform.getPosition());
+            filteredReason = rollAndSpawn(npcRole, killCount, spawnChance, regionalBonus, playerRef, store, monitor);
             
-            // Spawn the elite NPC using NPCPlugin API
+        } catch (Exception e) {
+            LOGGER.atSevere().log("[GBR] Error attempting elite spawn: " + e.getMessage());
+            filteredReason = "error";
+            e.printStackTrace();
+        } finally {
             World world = ((EntityStore)store.getExternalData()).getWorld();
             if (world != null) {
+                TickBudgetMonitor.forWorld(world).recordWork(System.nanoTime() - startNanos);
+            }
+            if (recording) {
+                deathEvent.system = "EliteSpawnSystem";
+                deathEvent.role = deadRole;
+                deathEvent.filteredReason = filteredReason;
+                deathEvent.commit();
+            }
+        }
+    }
+    
+    /**
+     * Rolls the spawn chance and spawns the elite if it passes
+     * 
+     * @return A short reason if nothing was spawned, or null if a spawn was queued
+     */
+    private String rollAndSpawn(String npcRole, int killCount, double spawnChance, double regionalBonus,
+                                PlayerRef playerRef, Store<EntityStore> store, TickBudgetMonitor monitor) {
+        double roll = random.nextDouble();
+        
+        SpawnRolledEvent rollEvent = new SpawnRolledEvent();
+        if (rollEvent.isEnabled()) {
+            rollEvent.role = npcRole;
+            rollEvent.killCount = killCount;
+            rollEvent.spawnChance = spawnChance;
+            rollEvent.regionalBonus = regionalBonus;
+            rollEvent.roll = roll;
+            rollEvent.passed = roll <= spawnChance;
+            rollEvent.commit();
+        }
+        
+        if (ConditionalSpawnConfig.DEBUG_MODE) {
+            LOGGER.atInfo().log("[GBR] Spawn check: " + killCount + " kills, " + (spawnChance * 100) + "% chance, rolled " + (roll * 100) + "%");
+        }
+        
+        if (roll > spawnChance) {
+            // Regional pressure rolls on sub-threshold kills too - only log those when debugging
+            boolean atThreshold = killCount >= ConditionalSpawnConfig.getThreshold(npcRole);
+            if ((atThreshold || ConditionalSpawnConfig.DEBUG_MODE) && !monitor.isDegraded()) {
+                LOGGER.atInfo().log("[GBR] Elite spawn failed roll (" + (roll * 100) + "% > " + (spawnChance * 100) + "%)");
+            }
+            return "failed_roll"; // Failed spawn chance
+        }
+        
+        // Get elite variant to spawn
+        String eliteVariant = ConditionalSpawnConfig.getEliteVariant(npcRole);
+        if (eliteVariant == null) {
+            return "no_elite_variant";
+        }
+        
+        return spawnElite(eliteVariant, playerRef, store, monitor);
+    }
+    
+    /**
+     * Queues the elite spawn near the player, respecting the per-tick spawn cap.
+     * The killer is looked up from the PlayerRef each time, since deferred spawns may run ticks later.
+     * 
+     * @return A short reason if nothing was spawned, or null if a spawn was queued
+     */
+    private String spawnElite(String eliteVariant, PlayerRef playerRef,
+                              Store<EntityStore> store, TickBudgetMonitor monitor) {
+        Ref<EntityStore> killerRef = playerRef.getReference();
+        if (killerRef == null || !killerRef.isValid() || killerRef.getStore() != store) {
+            return "invalid_killer"; // Player left or changed worlds before a deferred spawn ran
+        }
+        
+        World world = ((EntityStore)store.getExternalData()).getWorld();
+        if (world == null) {
+            return "no_world";
+        }
+        
+        // Over the per-tick cap - keep the won roll and spawn on a later tick
+        if (!monitor.tryAcquireSpawnSlot()) {
+            boolean queued = monitor.defer((liveStore, liveMonitor) -> spawnElite(eliteVariant, playerRef, liveStore, liveMonitor));
+            return queued ? "spawn_capped" : "shed";
+        }
+        
+        // Get spawn location near player
+        TransformComponent playerTransform = store.getComponent(killerRef, TransformComponent.getComponentType());
+        if (playerTransform == null) {
+            return "no_player_transform";
+        }
+        
+        Vector3d spawnLocation = calculateSpawnLocation(playerTransform.getPosition());
+        
+        // Spawn the elite NPC using NPCPlugin API
+        try {
+            // Create default rotation (facing player's direction or default)
+            Vector3f spawnRotation = new Vector3f(0.0f, 0.0f, 0.0f);
+            
+            // Attempt to spawn the elite NPC
+            long queuedAt = System.nanoTime();
+            world.execute(() -> {
+                SpawnExecutedEvent spawnEvent = new SpawnExecutedEvent();
+                boolean recording = spawnEvent.isEnabled();
+                if (recording) {
+                    spawnEvent.begin();
+                    spawnEvent.queueDelay = System.nanoTime() - queuedAt;
+                    spawnEvent.eliteVariant = eliteVariant;
+                }
                 try {
-                    // Create default rotation (facing player's direction or default)
-                    Vector3f spawnRotation = new Vector3f(0.0f, 0.0f, 0.0f);
+                    Pair<Ref<EntityStore>, INonPlayerCharacter> result = NPCPlugin.get().spawnNPC(
+                        world.getEntityStore().getStore(),
+                        eliteVariant,
+                        null, // groupType
+                        spawnLocation,
+                        spawnRotation
+                    );
                     
-                    // Attempt to spawn the elite NPC
-                    world.execute(() -> {
-                        try {
-                            Pair<Ref<EntityStore>, INonPlayerCharacter> result = NPCPlugin.get().spawnNPC(
-                                world.getEntityStore().getStore(),
-                                eliteVariant,
-                                null, // groupType
-                                spawnLocation,
-                                spawnRotation
-                            );
+                    if (recording) {
+                        spawnEvent.success = result != null;
+                    }
+                    if (result != null) {
+                        // Notifications and success logs are paused while shedding load
+                        if (!monitor.isDegraded()) {
+                            LOGGER.atInfo().log("[GBR] Successfully spawned elite " + eliteVariant + " at " + spawnLocation);
                             
-                            if (result != null) {
-                                LOGGER.atInfo().log("[GBR] Successfully spawned elite " + eliteVariant + " at " + spawnLocation);
-                                
-                                // Send notification to player
-                                String displayName = eliteVariant.replace("_", " ");
-                                NotificationUtil.sendNotification(
-                                    playerRef.getPacketHandler(),
-                                    Message.raw("Elite Variant Spawned").bold(true).color("#FF4444"),
-                                    Message.raw(displayName + " has appeared nearby!").color("#FFAA00"),
-                                    eliteVariant  // Icon - use the elite's model ID
-                                );
-                            } else {
-                                LOGGER.atWarning().log("[GBR] Failed to spawn elite " + eliteVariant + " - spawn returned null");
-                            }
-                        } catch (Exception e) {
-                            LOGGER.atSevere().log("[GBR] Error spawning elite NPC: " + e.getMessage());
-                            e.printStackTrace();
+                            // Send notification to player
+                            String displayName = eliteVariant.replace("_", " ");
+                            NotificationUtil.sendNotification(
+                                playerRef.getPacketHandler(),
+                                Message.raw("Elite Variant Spawned").bold(true).color("#FF4444"),
+                                Message.raw(displayName + " has appeared nearby!").color("#FFAA00"),
+                                eliteVariant  // Icon - use the elite's model ID
+                            );
                         }
-                    });
-                    
+                    } else {
+                        LOGGER.atWarning().log("[GBR] Failed to spawn elite " + eliteVariant + " - spawn returned null");
+                    }
                 } catch (Exception e) {
-                    LOGGER.atSevere().log("[GBR] Error preparing elite spawn: " + e.getMessage());
+                    LOGGER.atSevere().log("[GBR] Error spawning elite NPC: " + e.getMessage());
                     e.printStackTrace();
+                } finally {
+                    if (recording) {
+                        spawnEvent.commit();
+                    }
                 }
-            }
+            });
             
         } catch (Exception e) {
-            LOGGER.atSevere().log("[GBR] Error attempting elite spawn: " + e.getMessage());
+            LOGGER.atSevere().log("[GBR] Error preparing elite spawn: " + e.getMessage());
             e.printStackTrace();
         }
+        return null;
+    }
+    
+    private double calculateRegionalBonus(Ref<EntityStore> deadEntityRef, Store<EntityStore> store, World world, long currentTime) {
+        TransformComponent victimTransform = store.getComponent(deadEntityRef, TransformComponent.getComponentType());
+        if (victimTransform == null) {
+            return 0.0;
+        }
+        
+        Vector3d victimPosition = victimTransform.getPosition();
+        double regionHeat = RegionalKillHeatMap.forWorld(world).getHeat(victimPosition.getX(), victimPosition.getZ(), currentTime);
+        double regionalBonus = ConditionalSpawnConfig.calculateRegionalBonus(regionHeat);
+        
+        if (ConditionalSpawnConfig.DEBUG_MODE) {
+            LOGGER.atInfo().log("[GBR] Region heat: " + regionHeat + ", regional bonus: " + (regionalBonus * 100) + "%");
+        }
+        return regionalBonus;
     }
     
     private Vector3d calculateSpawnLocation(Vector3d playerPosition) {
@@ -8,15 +8,22 @@ import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
 import com.hypixel.hytale.server.core.modules.entity.damage.DeathComponent;
 import com.hypixel.hytale.server.core.modules.entity.damage.DeathSystems;
 import com.hypixel.hytale.server.core.modules.time.WorldTimeResource;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.npc.entities.NPCEntity;
 import com.kdrgold.gbr.components.tracking.PlayerKillTrackerComponent;
+import com.kdrgold.gbr.components.tracking.RegionalKillHeatMap;
 import com.kdrgold.gbr.config.ConditionalSpawnConfig;
+import com.kdrgold.gbr.diagnostics.DeathHandledEvent;
+import com.kdrgold.gbr.diagnostics.KillRecordedEvent;
+import com.kdrgold.gbr.diagnostics.TickBudgetMonitor;
 
 /**
  * System that tracks when players kill trackable NPCs.
@@ -41,6 +48,15 @@ public class KillTrackingSystem extends DeathSystems.OnDeathSystem {
                                  @Nonnull DeathComponent deathComponent,
                                  @Nonnull Store<EntityStore> store,
                                  @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        // Only populate the JFR event while a recording has it enabled
+        DeathHandledEvent deathEvent = new DeathHandledEvent();
+        boolean recording = deathEvent.isEnabled();
+        if (recording) {
+            deathEvent.begin();
+        }
+        String deadRole = null;
+        String filteredReason = null;
+        long startNanos = System.nanoTime();
         try {
             if (ConditionalSpawnConfig.DEBUG_MODE) {
                 LOGGER.atInfo().log("[GBR] KillTrackingSystem.onComponentAdded triggered!");
@@ -52,11 +68,13 @@ public class KillTrackingSystem extends DeathSystems.OnDeathSystem {
                 if (ConditionalSpawnConfig.DEBUG_MODE) {
                     LOGGER.atInfo().log("[GBR] Entity is not an NPC, skipping");
                 }
+                filteredReason = "not_npc";
                 return; // Not an NPC
             }
             
             // Get NPC role name
             String npcRole = npcComponent.getRoleName();
+            deadRole = npcRole;
             if (ConditionalSpawnConfig.DEBUG_MODE) {
                 LOGGER.atInfo().log("[GBR] NPC died with role: " + npcRole);
             }
@@ -65,12 +83,14 @@ public class KillTrackingSystem extends DeathSystems.OnDeathSystem {
                 if (ConditionalSpawnConfig.DEBUG_MODE) {
                     LOGGER.atInfo().log("[GBR] NPC role '" + npcRole + "' is not trackable, skipping");
                 }
+                filteredReason = "not_trackable";
                 return; // Not a trackable entity type
             }
             
             // Get death info to find killer
             Damage deathInfo = deathComponent.getDeathInfo();
             if (deathInfo == null || !(deathInfo.getSource() instanceof Damage.EntitySource)) {
+                filteredReason = "no_entity_killer";
                 return; // No valid killer
             }
             
@@ -78,17 +98,20 @@ public class KillTrackingSystem extends DeathSystems.OnDeathSystem {
             Ref<EntityStore> killerRef = source.getRef();
             
             if (killerRef == null || !killerRef.isValid()) {
+                filteredReason = "invalid_killer";
                 return;
             }
             
             // Check if killer is a player
             Player playerComponent = commandBuffer.getComponent(killerRef, Player.getComponentType());
             if (playerComponent == null) {
+                filteredReason = "not_player";
                 return; // Killer is not a player
             }
             
             // Get or create kill trastore.getComponent(killerRef, Player.getComponentType());
             if (playerComponent == null) {
+                filteredReason = "not_player";
                 return; // Killer is not a player
             }
             
@@ -105,23 +128,53 @@ public class KillTrackingSystem extends DeathSystems.OnDeathSystem {
             // Record the kill
             killTracker.recordKill(npcRole, currentTime);
             
+            // Feed the world's regional heat map from the victim's position
+            TransformComponent victimTransform = store.getComponent(deadEntityRef, TransformComponent.getComponentType());
+            World world = ((EntityStore)store.getExternalData()).getWorld();
+            if (victimTransform != null && world != null) {
+                Vector3d victimPosition = victimTransform.getPosition();
+                RegionalKillHeatMap.forWorld(world).recordKill(victimPosition.getX(), victimPosition.getZ(), currentTime);
+            }
+            
             int killCount = killTracker.getKillCount(npcRole, currentTime);
             
             if (ConditionalSpawnConfig.DEBUG_MODE) {
                 LOGGER.atInfo().log("[GBR] Player killed " + npcRole + " (total in 72h window: " + killCount + ")");
             }
             
-            // Log milestone messages
             int threshold = ConditionalSpawnConfig.getThreshold(npcRole);
-            if (killCount == threshold) {
+            
+            KillRecordedEvent killEvent = new KillRecordedEvent();
+            if (killEvent.isEnabled()) {
+                killEvent.role = npcRole;
+                killEvent.windowKillCount = killCount;
+                killEvent.threshold = threshold;
+                killEvent.commit();
+            }
+            
+            // Log milestone messages (paused while shedding load - the kill is still counted)
+            boolean degraded = world != null && TickBudgetMonitor.forWorld(world).isDegraded();
+            if (!degraded && killCount == threshold) {
                 LOGGER.atInfo().log("[GBR] Player reached threshold for " + npcRole + " - elite spawn chance activated!");
-            } else if (killCount > threshold) {
+            } else if (!degraded && killCount > threshold) {
                 LOGGER.atInfo().log("[GBR] Player exceeded threshold for " + npcRole + " - guaranteed elite spawn!");
             }
             
         } catch (Exception e) {
             LOGGER.atSevere().log("[GBR] Error tracking kill: " + e.getMessage());
+            filteredReason = "error";
             e.printStackTrace();
+        } finally {
+            World world = ((EntityStore)store.getExternalData()).getWorld();
+            if (world != null) {
+                TickBudgetMonitor.forWorld(world).recordWork(System.nanoTime() - startNanos);
+            }
+            if (recording) {
+                deathEvent.system = "KillTrackingSystem";
+                deathEvent.role = deadRole;
+                deathEvent.filteredReason = filteredReason;
+                deathEvent.commit();
+            }
         }
     }
     
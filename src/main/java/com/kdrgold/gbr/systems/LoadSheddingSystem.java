@@ -0,0 +1,44 @@
+package com.kdrgold.gbr.systems;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.kdrgold.gbr.diagnostics.TickBudgetMonitor;
+
+/**
+ * System that closes out each world tick for the load-shedding monitor
+ * and runs spawn work that was deferred from earlier ticks.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+public class LoadSheddingSystem extends TickingSystem<EntityStore> {
+    
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    
+    @Override
+    public void tick(float dt, int systemIndex, @Nonnull Store<EntityStore> store) {
+        try {
+            World world = ((EntityStore)store.getExternalData()).getWorld();
+            if (world == null) {
+                return;
+            }
+            
+            TickBudgetMonitor monitor = TickBudgetMonitor.forWorld(world);
+            monitor.onTick();
+            
+            // Deferred spawn work counts toward this tick's GBR budget
+            long startNanos = System.nanoTime();
+            monitor.runDeferred(store);
+            monitor.recordWork(System.nanoTime() - startNanos);
+        
+        } catch (Exception e) {
+            LOGGER.atSevere().log("[GBR] Error running deferred spawn work: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
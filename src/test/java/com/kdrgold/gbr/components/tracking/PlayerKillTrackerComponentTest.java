@@ -0,0 +1,108 @@
+package com.kdrgold.gbr.components.tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for PlayerKillTrackerComponent.
+ * The stress test hammers one tracker from several writer threads, on a shared
+ * role and on one role per thread, while reader threads count and clone it.
+ * Every kill must be counted exactly once.
+ *
+ * @author kdrgold
+ * @version 2.0.0
+ */
+class PlayerKillTrackerComponentTest {
+    
+    private static final int WRITER_THREADS = 8;
+    private static final int READER_THREADS = 4;
+    private static final int KILLS_PER_THREAD = 2000;
+    
+    private static final long CURRENT_TIME = 1_000_000L;
+    
+    @Test
+    void concurrentKillsAreCountedExactly() throws Exception {
+        PlayerKillTrackerComponent tracker = new PlayerKillTrackerComponent();
+        String sharedRole = "Stress_Shared";
+        int sharedTotal = WRITER_THREADS * KILLS_PER_THREAD;
+        
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_THREADS + READER_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < WRITER_THREADS; t++) {
+                String ownRole = "Stress_Own_" + t;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < KILLS_PER_THREAD; i++) {
+                        tracker.recordKill(sharedRole, CURRENT_TIME);
+                        tracker.recordKill(ownRole, CURRENT_TIME);
+                    }
+                    return null;
+                }));
+            }
+            
+            // Readers must only ever see counts that grow and never exceed the final total
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < READER_THREADS; t++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    int lastSeen = 0;
+                    while (writing.get()) {
+                        int count = tracker.getKillCount(sharedRole, CURRENT_TIME);
+                        assertTrue(count >= lastSeen, "shared count went backwards: " + count + " < " + lastSeen);
+                        assertTrue(count <= sharedTotal, "shared count over total: " + count);
+                        lastSeen = count;
+                        
+                        int cloneCount = tracker.clone().getKillCount(sharedRole, CURRENT_TIME);
+                        assertTrue(cloneCount >= lastSeen && cloneCount <= sharedTotal, "clone saw an inconsistent count: " + cloneCount);
+                    }
+                    return null;
+                }));
+            }
+            
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+            executor.shutdownNow();
+        }
+        
+        assertEquals(sharedTotal, tracker.getKillCount(sharedRole, CURRENT_TIME));
+        for (int t = 0; t < WRITER_THREADS; t++) {
+            assertEquals(KILLS_PER_THREAD, tracker.getKillCount("Stress_Own_" + t, CURRENT_TIME));
+        }
+        assertEquals(sharedTotal, tracker.clone().getKillCount(sharedRole, CURRENT_TIME));
+    }
+    
+    @Test
+    void resetKillsKeepsTrackingTheRole() {
+        PlayerKillTrackerComponent tracker = new PlayerKillTrackerComponent();
+        tracker.recordKill("Reset_Role", CURRENT_TIME);
+        tracker.recordKill("Reset_Role", CURRENT_TIME);
+        
+        tracker.resetKills("Reset_Role");
+        assertEquals(0, tracker.getKillCount("Reset_Role", CURRENT_TIME));
+        
+        tracker.recordKill("Reset_Role", CURRENT_TIME);
+        assertEquals(1, tracker.getKillCount("Reset_Role", CURRENT_TIME));
+    }
+}